@@ -2,8 +2,10 @@ package com.nikhildev.projects.job_portal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class JobPortalApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,112 @@
+package com.nikhildev.projects.job_portal.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nikhildev.projects.job_portal.dto.JobResponse;
+import com.nikhildev.projects.job_portal.dto.JobViews;
+import com.nikhildev.projects.job_portal.dto.JsonFragment;
+import com.nikhildev.projects.job_portal.models.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps the serialized JSON of each job posting, in summary and full form,
+ * keyed by id and updatedAt so unchanged postings are never serialized twice.
+ * Bounded by the total size of the cached bytes, evicting least recently used postings first.
+ */
+@Component
+public class JobJsonCache {
+
+    private final ObjectWriter summaryWriter;
+    private final ObjectWriter fullWriter;
+    private final long maxBytes;
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public JobJsonCache(ObjectMapper objectMapper,
+                        @Value("${jobs.json-cache.max-bytes:33554432}") long maxBytes) {
+        this.summaryWriter = objectMapper.writerWithView(JobViews.Summary.class);
+        this.fullWriter = objectMapper.writerWithView(JobViews.Full.class);
+        this.maxBytes = maxBytes;
+    }
+
+    public JsonFragment summary(Job job) {
+        return new JsonFragment(lookup(job).summary());
+    }
+
+    public JsonFragment full(Job job) {
+        return new JsonFragment(lookup(job).full());
+    }
+
+    public synchronized void evict(UUID id) {
+        remove(id);
+    }
+
+    public synchronized void evictAll(Collection<UUID> ids) {
+        ids.forEach(this::remove);
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private Entry lookup(Job job) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(job.getId());
+        }
+        if (entry != null && Objects.equals(entry.updatedAt(), job.getUpdatedAt())) {
+            return entry;
+        }
+
+        // Serialize outside the lock; a concurrent miss for the same job just does the work twice
+        JobResponse response = JobResponse.from(job);
+        try {
+            entry = new Entry(job.getUpdatedAt(),
+                    summaryWriter.writeValueAsBytes(response),
+                    fullWriter.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job " + job.getId(), e);
+        }
+
+        synchronized (this) {
+            remove(job.getId());
+            entries.put(job.getId(), entry);
+            totalBytes += entry.size();
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().size();
+                eldest.remove();
+            }
+        }
+        return entry;
+    }
+
+    private void remove(UUID id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            totalBytes -= removed.size();
+        }
+    }
+
+    private record Entry(LocalDateTime updatedAt, byte[] summary, byte[] full) {
+
+        long size() {
+            return summary.length + full.length;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nikhildev.projects.job_portal.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class JsonFragmentConfig {
+
+    @Bean
+    public WebMvcConfigurer jsonFragmentConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                // Must come before the Jackson converter, which would otherwise claim these types
+                converters.add(0, new JsonFragmentHttpMessageConverter());
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.nikhildev.projects.job_portal.config;
+
+import com.nikhildev.projects.job_portal.dto.JobPageResponse;
+import com.nikhildev.projects.job_portal.dto.JsonFragment;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes pre-serialized job JSON straight to the response body, so list and
+ * detail responses are assembled from cached fragments instead of going through Jackson.
+ */
+public class JsonFragmentHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final byte[] DATA_START = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMA = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HAS_MORE = ",\"hasMore\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COUNT = ",\"count\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COUNT_TYPE = ",\"countType\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END = "}".getBytes(StandardCharsets.UTF_8);
+
+    public JsonFragmentHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonFragment.class == clazz || JobPageResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading " + clazz.getSimpleName() + " is not supported", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        if (body instanceof JsonFragment fragment) {
+            return (long) fragment.getBytes().length;
+        }
+        return null;
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+
+        if (body instanceof JsonFragment fragment) {
+            out.write(fragment.getBytes());
+            return;
+        }
+
+        JobPageResponse page = (JobPageResponse) body;
+        out.write(DATA_START);
+        List<JsonFragment> data = page.getData();
+        for (int i = 0; i < data.size(); i++) {
+            if (i > 0) {
+                out.write(COMMA);
+            }
+            out.write(data.get(i).getBytes());
+        }
+        out.write(NEXT_CURSOR);
+        // Cursors are UUID strings, so they never need escaping
+        out.write((page.getNextCursor() == null ? "null" : "\"" + page.getNextCursor() + "\"")
+                .getBytes(StandardCharsets.UTF_8));
+        out.write(HAS_MORE);
+        out.write(Boolean.toString(page.isHasMore()).getBytes(StandardCharsets.UTF_8));
+        if (page.getCount() != null) {
+            out.write(COUNT);
+            out.write(page.getCount().toString().getBytes(StandardCharsets.UTF_8));
+            // countType is one of a fixed set of plain words
+            out.write(COUNT_TYPE);
+            out.write(page.getCountType().getBytes(StandardCharsets.UTF_8));
+            out.write('"');
+        }
+        out.write(END);
+    }
+}
@@ -1,7 +1,11 @@
 package com.nikhildev.projects.job_portal.controllers;
 
+import com.nikhildev.projects.job_portal.dto.BulkJobRequest;
+import com.nikhildev.projects.job_portal.dto.BulkOperationResponse;
+import com.nikhildev.projects.job_portal.dto.JobPageResponse;
 import com.nikhildev.projects.job_portal.dto.JobRequest;
 import com.nikhildev.projects.job_portal.dto.JobResponse;
+import com.nikhildev.projects.job_portal.dto.JsonFragment;
 import com.nikhildev.projects.job_portal.services.JobService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigInteger;
-import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -25,7 +28,7 @@ public class JobController {
     }
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllJobs(
+    public ResponseEntity<JobPageResponse> getAllJobs(
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String jobType,
@@ -34,18 +37,20 @@ public class JobController {
             @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "12") int limit,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection) {
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(required = false) String includeCount) {
 
-        Map<String, Object> response = jobService.getAllJobs(
+        JobPageResponse response = jobService.getAllJobs(
                 title, location, jobType, minSalary, maxSalary,
-                cursor, limit, sortBy, sortDirection);
+                cursor, limit, sortBy, sortDirection, view, includeCount);
 
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable UUID id) {
-        JobResponse job = jobService.getJobById(id);
+    public ResponseEntity<JsonFragment> getJobById(@PathVariable UUID id) {
+        JsonFragment job = jobService.getJobById(id);
         return ResponseEntity.ok(job);
     }
 
@@ -68,4 +73,22 @@ public class JobController {
         jobService.deleteJob(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/close")
+    public ResponseEntity<Void> closeJob(@PathVariable UUID id) {
+        jobService.closeJob(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkOperationResponse> deleteJobs(@RequestBody BulkJobRequest request) {
+        BulkOperationResponse response = jobService.deleteJobs(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk-close")
+    public ResponseEntity<BulkOperationResponse> closeJobs(@RequestBody BulkJobRequest request) {
+        BulkOperationResponse response = jobService.closeJobs(request);
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
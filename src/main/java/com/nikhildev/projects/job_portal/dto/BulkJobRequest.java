@@ -0,0 +1,22 @@
+package com.nikhildev.projects.job_portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobRequest {
+
+    // Exactly one of these selects the postings to act on
+    private List<UUID> ids;
+    private String companyName;
+    private LocalDate createdBefore;
+}
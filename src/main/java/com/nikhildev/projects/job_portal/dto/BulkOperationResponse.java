@@ -0,0 +1,15 @@
+package com.nikhildev.projects.job_portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    private long affected;
+}
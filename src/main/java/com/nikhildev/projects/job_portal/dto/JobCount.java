@@ -0,0 +1,18 @@
+package com.nikhildev.projects.job_portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCount {
+
+    private long value;
+
+    // "exact", "estimate", or "upper_bound" when filters the counters cannot apply were dropped
+    private String type;
+}
@@ -0,0 +1,23 @@
+package com.nikhildev.projects.job_portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPageResponse {
+
+    private List<JsonFragment> data;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Only set when the search asked for includeCount; countType says how it was computed (see JobCount)
+    private Long count;
+    private String countType;
+}
@@ -1,5 +1,7 @@
 package com.nikhildev.projects.job_portal.dto;
 
+import com.fasterxml.jackson.annotation.JsonView;
+import com.nikhildev.projects.job_portal.models.Job;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +16,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonView(JobViews.Summary.class)
 public class JobResponse {
 
     private UUID id;
@@ -23,11 +26,35 @@ public class JobResponse {
     private String jobType;
     private BigInteger minSalary;
     private BigInteger maxSalary;
+    @JsonView(JobViews.Full.class)
     private String description;
+    @JsonView(JobViews.Full.class)
     private String requirements;
+    @JsonView(JobViews.Full.class)
     private String responsibilities;
     private LocalDate applicationDeadline;
     private String experienceYears;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime closedAt;
+
+    public static JobResponse from(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .companyName(job.getCompanyName())
+                .location(job.getLocation())
+                .jobType(job.getJobType().name())
+                .minSalary(job.getMinSalary())
+                .maxSalary(job.getMaxSalary())
+                .description(job.getDescription())
+                .requirements(job.getRequirements())
+                .responsibilities(job.getResponsibilities())
+                .applicationDeadline(job.getApplicationDeadline())
+                .experienceYears(job.getExperienceYears())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .closedAt(job.getClosedAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.nikhildev.projects.job_portal.dto;
+
+/**
+ * Jackson views used when pre-serializing job postings.
+ * Summary omits the long free-text fields; Full includes everything.
+ */
+public final class JobViews {
+
+    private JobViews() {
+    }
+
+    public interface Summary {
+    }
+
+    public interface Full extends Summary {
+    }
+}
@@ -0,0 +1,14 @@
+package com.nikhildev.projects.job_portal.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Already serialized JSON, written to the response body as-is.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JsonFragment {
+
+    private final byte[] bytes;
+}
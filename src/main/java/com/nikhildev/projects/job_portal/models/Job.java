@@ -16,7 +16,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_location_id", columnList = "location_id"),
+        // Bulk close/delete chunks; including closed_at keeps already-closed rows out of the close scans
+        @Index(name = "idx_jobs_company_name_closed_at", columnList = "company_name, closed_at"),
+        @Index(name = "idx_jobs_closed_at_created_at", columnList = "closed_at, created_at"),
+        @Index(name = "idx_jobs_created_at", columnList = "created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +44,9 @@ public class Job {
     @Column(nullable = false)
     private String location;
 
+    @Column(name = "location_id")
+    private Integer locationId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private JobType jobType;
@@ -67,6 +76,8 @@ public class Job {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    private LocalDateTime closedAt;
+
     public enum JobType {
         FullTime, PartTime, Contract, Internship
     }
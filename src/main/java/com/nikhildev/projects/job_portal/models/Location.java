@@ -0,0 +1,33 @@
+package com.nikhildev.projects.job_portal.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "locations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Location {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String canonicalName;
+
+    // Normalized spellings (lowercase, single-spaced) that resolve to this location
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "location_aliases", joinColumns = @JoinColumn(name = "location_id"))
+    @Column(name = "alias", nullable = false, unique = true)
+    @Builder.Default
+    private Set<String> aliases = new HashSet<>();
+}
@@ -3,11 +3,80 @@ package com.nikhildev.projects.job_portal.repositories;
 import com.nikhildev.projects.job_portal.models.Job;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, UUID>, JpaSpecificationExecutor<Job> {
 
-}
\ No newline at end of file
+    @Modifying
+    @Transactional
+    @Query("delete from Job j where j.id = :id")
+    int deleteJob(@Param("id") UUID id);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Job j where j.id in :ids")
+    int deleteJobs(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.closedAt = :now, j.updatedAt = :now where j.id = :id and j.closedAt is null")
+    int closeJob(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.closedAt = :now, j.updatedAt = :now where j.id in :ids and j.closedAt is null")
+    int closeJobs(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    // Postgres has no DELETE ... LIMIT, so the chunked statements bound themselves with a sub-select
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM jobs WHERE id IN " +
+            "(SELECT id FROM jobs WHERE company_name = :companyName LIMIT :chunkSize)",
+            nativeQuery = true)
+    int deleteChunkByCompanyName(@Param("companyName") String companyName, @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM jobs WHERE id IN " +
+            "(SELECT id FROM jobs WHERE created_at < :before LIMIT :chunkSize)",
+            nativeQuery = true)
+    int deleteChunkCreatedBefore(@Param("before") LocalDateTime before, @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE jobs SET closed_at = :now, updated_at = :now WHERE id IN " +
+            "(SELECT id FROM jobs WHERE company_name = :companyName AND closed_at IS NULL LIMIT :chunkSize)",
+            nativeQuery = true)
+    int closeChunkByCompanyName(@Param("companyName") String companyName, @Param("now") LocalDateTime now,
+                                @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE jobs SET closed_at = :now, updated_at = :now WHERE id IN " +
+            "(SELECT id FROM jobs WHERE created_at < :before AND closed_at IS NULL LIMIT :chunkSize)",
+            nativeQuery = true)
+    int closeChunkCreatedBefore(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now,
+                                @Param("chunkSize") int chunkSize);
+
+    @Query("select distinct j.location from Job j where j.locationId is null")
+    List<String> findUnresolvedLocations();
+
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.locationId = :locationId where j.location = :location and j.locationId is null")
+    int assignLocationId(@Param("location") String location, @Param("locationId") Integer locationId);
+
+    @Query("select j.jobType, j.locationId, count(j) from Job j where j.closedAt is null group by j.jobType, j.locationId")
+    List<Object[]> countOpenJobsByTypeAndLocation();
+}
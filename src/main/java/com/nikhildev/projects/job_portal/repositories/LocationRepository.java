@@ -0,0 +1,24 @@
+package com.nikhildev.projects.job_portal.repositories;
+
+import com.nikhildev.projects.job_portal.models.Location;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface LocationRepository extends JpaRepository<Location, Integer> {
+
+    @Query("select distinct l from Location l left join fetch l.aliases")
+    List<Location> findAllWithAliases();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO location_aliases (location_id, alias) VALUES (:locationId, :alias)",
+            nativeQuery = true)
+    int addAlias(@Param("locationId") Integer locationId, @Param("alias") String alias);
+}
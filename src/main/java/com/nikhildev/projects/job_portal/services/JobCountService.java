@@ -0,0 +1,209 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.dto.JobCount;
+import com.nikhildev.projects.job_portal.models.Job;
+import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Result counts for job searches.
+ * Estimates come from a snapshot of per-jobType/per-location counters that is refreshed in the
+ * background after writes and periodically as a backstop; exact counts run on a bounded pool and are cached per normalized filter until the
+ * next local write or a TTL, whichever comes first.
+ */
+@Slf4j
+@Service
+public class JobCountService {
+
+    private static final int MAX_CACHED_COUNTS = 1000;
+
+    private final JobRepository jobRepository;
+    private final long exactWaitMillis;
+    private final long exactTtlMillis;
+    private final ThreadPoolExecutor countExecutor;
+
+    private final Map<JobSearchKey, CachedCount> exactCounts = new ConcurrentHashMap<>();
+    private final Map<JobSearchKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    private volatile List<Bucket> buckets;
+
+    public JobCountService(JobRepository jobRepository,
+                           @Value("${jobs.count.exact-wait-ms:200}") long exactWaitMillis,
+                           @Value("${jobs.count.exact-ttl-seconds:60}") long exactTtlSeconds,
+                           @Value("${jobs.count.threads:2}") int threads,
+                           @Value("${jobs.count.queue-capacity:16}") int queueCapacity) {
+        this.jobRepository = jobRepository;
+        this.exactWaitMillis = exactWaitMillis;
+        this.exactTtlMillis = TimeUnit.SECONDS.toMillis(exactTtlSeconds);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Bounded so a burst of distinct filters cannot queue up unlimited COUNT(*) scans;
+        // rejected counts fall back to the estimate in exact()
+        this.countExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-count-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Returns a cached exact count if there is one, otherwise the counter snapshot.
+     * Never queries the database; returns null until the first snapshot has loaded.
+     */
+    public JobCount estimate(JobSearchKey key) {
+        Long exact = cachedExact(key);
+        if (exact != null) {
+            return new JobCount(exact, "exact");
+        }
+
+        List<Bucket> snapshot = buckets;
+        if (snapshot == null) {
+            return null;
+        }
+
+        long total = 0;
+        for (Bucket bucket : snapshot) {
+            if ((key.jobType() == null || key.jobType() == bucket.jobType())
+                    && (key.locationIds() == null || key.locationIds().contains(bucket.locationId()))) {
+                total += bucket.count();
+            }
+        }
+
+        // Counters only know jobType and location, so any other filter leaves an upper bound
+        boolean narrowed = key.title() != null || key.minSalary() != null || key.maxSalary() != null;
+        return new JobCount(total, narrowed ? "upper_bound" : "estimate");
+    }
+
+    /**
+     * Returns the exact count if it is cached or can be computed within the time budget,
+     * otherwise an estimate; the exact count keeps running and is cached for the next request.
+     */
+    public JobCount exact(JobSearchKey key, Specification<Job> filter) {
+        Long cached = cachedExact(key);
+        if (cached != null) {
+            return new JobCount(cached, "exact");
+        }
+
+        long current = generation.get();
+        InFlight candidate = new InFlight(current, new CompletableFuture<>());
+        // Never join a count that started before the latest write
+        InFlight running = inFlight.compute(key, (k, existing) ->
+                existing != null && existing.generation() == current ? existing : candidate);
+
+        if (running == candidate) {
+            try {
+                countExecutor.execute(() -> runCount(key, filter, candidate));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(key, candidate);
+                return estimate(key);
+            }
+        }
+
+        try {
+            return new JobCount(running.future().get(exactWaitMillis, TimeUnit.MILLISECONDS), "exact");
+        } catch (TimeoutException | ExecutionException e) {
+            return estimate(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return estimate(key);
+        }
+    }
+
+    /**
+     * Drops cached exact counts and queues a counter refresh; called after any write to jobs.
+     * Writes arriving while a refresh is still queued share it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        exactCounts.clear();
+
+        if (refreshQueued.compareAndSet(false, true)) {
+            try {
+                countExecutor.execute(() -> {
+                    // Cleared before loading so a write during the refresh queues another one
+                    refreshQueued.set(false);
+                    refreshCounters();
+                });
+            } catch (RejectedExecutionException e) {
+                // Pool is saturated; the periodic refresh will catch up
+                refreshQueued.set(false);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.count.counter-refresh-ms:60000}")
+    void refreshCounters() {
+        try {
+            List<Bucket> loaded = new ArrayList<>();
+            for (Object[] row : jobRepository.countOpenJobsByTypeAndLocation()) {
+                loaded.add(new Bucket((Job.JobType) row[0], (Integer) row[1], (Long) row[2]));
+            }
+            buckets = loaded;
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot
+            log.warn("Refreshing job count counters failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        countExecutor.shutdownNow();
+    }
+
+    private void runCount(JobSearchKey key, Specification<Job> filter, InFlight task) {
+        try {
+            long count = jobRepository.count(filter);
+            // A count from before a write must not overwrite a fresher one; reads re-check the generation
+            if (task.generation() == generation.get()) {
+                if (exactCounts.size() >= MAX_CACHED_COUNTS) {
+                    exactCounts.clear();
+                }
+                exactCounts.put(key, new CachedCount(count, task.generation(), System.currentTimeMillis()));
+            }
+            task.future().complete(count);
+        } catch (RuntimeException e) {
+            log.warn("Exact count failed for {}", key, e);
+            task.future().completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, task);
+        }
+    }
+
+    private Long cachedExact(JobSearchKey key) {
+        CachedCount cached = exactCounts.get(key);
+        // The generation check also rejects counts that finished after a write cleared the cache
+        if (cached == null
+                || cached.generation() != generation.get()
+                || System.currentTimeMillis() - cached.computedAt() > exactTtlMillis) {
+            return null;
+        }
+        return cached.value();
+    }
+
+    private record Bucket(Job.JobType jobType, Integer locationId, long count) {
+    }
+
+    private record InFlight(long generation, CompletableFuture<Long> future) {
+    }
+
+    private record CachedCount(long value, long generation, long computedAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.models.Job;
+
+import java.math.BigInteger;
+import java.util.Set;
+
+/**
+ * Normalized search filter, used to cache result counts. Two searches that
+ * select the same rows (ignoring cursor, sort and limit) produce equal keys.
+ */
+public record JobSearchKey(String title,
+                           Job.JobType jobType,
+                           Set<Integer> locationIds,
+                           BigInteger minSalary,
+                           BigInteger maxSalary) {
+}
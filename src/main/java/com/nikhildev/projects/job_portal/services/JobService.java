@@ -1,12 +1,21 @@
 package com.nikhildev.projects.job_portal.services;
 
+import com.nikhildev.projects.job_portal.cache.JobJsonCache;
+import com.nikhildev.projects.job_portal.dto.BulkJobRequest;
+import com.nikhildev.projects.job_portal.dto.BulkOperationResponse;
+import com.nikhildev.projects.job_portal.dto.JobCount;
+import com.nikhildev.projects.job_portal.dto.JobPageResponse;
 import com.nikhildev.projects.job_portal.dto.JobRequest;
 import com.nikhildev.projects.job_portal.dto.JobResponse;
+import com.nikhildev.projects.job_portal.dto.JsonFragment;
+import com.nikhildev.projects.job_portal.exceptions.BadRequestException;
 import com.nikhildev.projects.job_portal.exceptions.ResourceNotFoundException;
 import com.nikhildev.projects.job_portal.models.Job;
 import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
@@ -16,6 +25,8 @@ import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,15 +36,45 @@ public class JobService {
     private static final BigInteger FRONTEND_MAX_SALARY = new BigInteger("2000000");
 
     private final JobRepository jobRepository;
+    private final JobJsonCache jobJsonCache;
+    private final LocationService locationService;
+    private final JobCountService jobCountService;
+
+    @Value("${jobs.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    @PostConstruct
+    void validateBulkChunkSize() {
+        // Zero would make the chunk loops spin forever, negatives break the LIMIT
+        if (bulkChunkSize < 1) {
+            throw new IllegalStateException("jobs.bulk.chunk-size must be at least 1, was " + bulkChunkSize);
+        }
+    }
+
+    public JobPageResponse getAllJobs(String title, String location, String jobType,
+                                      BigInteger minSalary, BigInteger maxSalary,
+                                      String cursor, int limit,
+                                      String sortBy, String sortDirection, String view,
+                                      String includeCount) {
+        if (!view.equals("summary") && !view.equals("full")) {
+            throw new BadRequestException("view must be 'summary' or 'full'");
+        }
+        if (includeCount != null && !includeCount.equals("exact") && !includeCount.equals("estimate")) {
+            throw new BadRequestException("includeCount must be 'exact' or 'estimate'");
+        }
+
+        // Resolve the location filter against the dictionary once, outside the specification
+        Set<Integer> locationIds = location != null && !location.isEmpty()
+                ? locationService.resolveIds(location)
+                : null;
 
-    public Map<String, Object> getAllJobs(String title, String location, String jobType,
-                                          BigInteger minSalary, BigInteger maxSalary,
-                                          String cursor, int limit,
-                                          String sortBy, String sortDirection) {
         // Create specification for filtering
-        Specification<Job> spec = (root, query, criteriaBuilder) -> {
+        Specification<Job> filterSpec = (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
+            // Closed postings are kept for reference but no longer listed
+            predicates.add(criteriaBuilder.isNull(root.get("closedAt")));
+
             if (title != null && !title.isEmpty()) {
                 predicates.add(
                         criteriaBuilder.or(
@@ -47,10 +88,15 @@ public class JobService {
                 );
             }
 
-            if (location != null && !location.isEmpty()) {
-                predicates.add(criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("location")),
-                        "%" + location.toLowerCase() + "%"));
+            if (locationIds != null) {
+                if (locationIds.isEmpty()) {
+                    // Nothing in the dictionary matches, so no job can
+                    predicates.add(criteriaBuilder.disjunction());
+                } else if (locationIds.size() == 1) {
+                    predicates.add(criteriaBuilder.equal(root.get("locationId"), locationIds.iterator().next()));
+                } else {
+                    predicates.add(root.get("locationId").in(locationIds));
+                }
             }
 
             if (jobType != null && !jobType.isEmpty()) {
@@ -91,7 +137,13 @@ public class JobService {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("minSalary"), maxSalary));
             }
 
-            // Cursor-based pagination
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+
+        // Cursor-based pagination, kept apart from the filters so counts can ignore it
+        Specification<Job> cursorSpec = (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
             if (cursor != null && !cursor.isEmpty()) {
                 try {
                     UUID cursorId = UUID.fromString(cursor);
@@ -160,6 +212,7 @@ public class JobService {
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
+        Specification<Job> spec = filterSpec.and(cursorSpec);
 
         // Determine sort order
         Sort sort;
@@ -185,30 +238,67 @@ public class JobService {
             nextCursor = lastJob.getId().toString();
         }
 
-        List<JobResponse> jobResponses = jobs.stream()
-                .map(this::mapToJobResponse)
+        boolean summary = "summary".equals(view);
+        List<JsonFragment> data = jobs.stream()
+                .map(job -> summary
+                        ? jobJsonCache.summary(job)
+                        : jobJsonCache.full(job))
                 .collect(Collectors.toList());
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("data", jobResponses);
-        response.put("nextCursor", nextCursor);
-        response.put("hasMore", hasMore);
+        JobPageResponse.JobPageResponseBuilder response = JobPageResponse.builder()
+                .data(data)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore);
+
+        if (includeCount != null) {
+            JobSearchKey key = searchKey(title, jobType, locationIds, minSalary, maxSalary);
+            JobCount count = includeCount.equals("exact")
+                    ? jobCountService.exact(key, filterSpec)
+                    : jobCountService.estimate(key);
+            // Null until the first counter snapshot has loaded; the count is then left out
+            if (count != null) {
+                response.count(count.getValue()).countType(count.getType());
+            }
+        }
+
+        return response.build();
+    }
 
-        return response;
+    private JobSearchKey searchKey(String title, String jobType, Set<Integer> locationIds,
+                                   BigInteger minSalary, BigInteger maxSalary) {
+        Job.JobType type = null;
+        if (jobType != null && !jobType.isEmpty()) {
+            try {
+                type = Job.JobType.valueOf(jobType);
+            } catch (IllegalArgumentException ignored) {
+                // Invalid job type is ignored by the filter too
+            }
+        }
+        return new JobSearchKey(
+                title != null && !title.isEmpty() ? title.toLowerCase() : null,
+                type,
+                locationIds,
+                minSalary,
+                // The frontend maximum means "no upper limit" to the filter
+                FRONTEND_MAX_SALARY.equals(maxSalary) ? null : maxSalary);
     }
 
-    public JobResponse getJobById(UUID id) {
+    public JsonFragment getJobById(UUID id) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
-        return mapToJobResponse(job);
+        return jobJsonCache.full(job);
     }
 
     public JobResponse createJob(JobRequest jobRequest) {
+        // Validate before resolving, which may write to the location dictionary
+        Job.JobType jobType = Job.JobType.valueOf(jobRequest.getJobType());
+
         Job job = Job.builder()
                 .title(jobRequest.getTitle())
                 .companyName(jobRequest.getCompanyName())
                 .location(jobRequest.getLocation())
-                .jobType(Job.JobType.valueOf(jobRequest.getJobType()))
+                .locationId(locationService.resolve(jobRequest.getLocation()))
+                .jobType(jobType)
                 .minSalary(jobRequest.getMinSalary())
                 .maxSalary(jobRequest.getMaxSalary())
                 .description(jobRequest.getDescription())
@@ -221,17 +311,22 @@ public class JobService {
                 .build();
 
         Job savedJob = jobRepository.save(job);
-        return mapToJobResponse(savedJob);
+        jobCountService.invalidate();
+        return JobResponse.from(savedJob);
     }
 
     public JobResponse updateJob(UUID id, JobRequest jobRequest) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
 
+        // Validate before resolving, which may write to the location dictionary
+        Job.JobType jobType = Job.JobType.valueOf(jobRequest.getJobType());
+
         job.setTitle(jobRequest.getTitle());
         job.setCompanyName(jobRequest.getCompanyName());
         job.setLocation(jobRequest.getLocation());
-        job.setJobType(Job.JobType.valueOf(jobRequest.getJobType()));
+        job.setLocationId(locationService.resolve(jobRequest.getLocation()));
+        job.setJobType(jobType);
         job.setMinSalary(jobRequest.getMinSalary());
         job.setMaxSalary(jobRequest.getMaxSalary());
         job.setDescription(jobRequest.getDescription());
@@ -242,32 +337,98 @@ public class JobService {
         job.setUpdatedAt(LocalDateTime.now(ZoneId.of("Asia/Kolkata")));
 
         Job updatedJob = jobRepository.save(job);
-        return mapToJobResponse(updatedJob);
+        jobCountService.invalidate();
+        return JobResponse.from(updatedJob);
     }
 
     public void deleteJob(UUID id) {
-        if (!jobRepository.existsById(id)) {
+        if (jobRepository.deleteJob(id) == 0) {
             throw new ResourceNotFoundException("Job not found with id: " + id);
         }
-        jobRepository.deleteById(id);
+        jobJsonCache.evict(id);
+        jobCountService.invalidate();
     }
 
-    private JobResponse mapToJobResponse(Job job) {
-        return JobResponse.builder()
-                .id(job.getId())
-                .title(job.getTitle())
-                .companyName(job.getCompanyName())
-                .location(job.getLocation())
-                .jobType(job.getJobType().name())
-                .minSalary(job.getMinSalary())
-                .maxSalary(job.getMaxSalary())
-                .description(job.getDescription())
-                .requirements(job.getRequirements())
-                .responsibilities(job.getResponsibilities())
-                .applicationDeadline(job.getApplicationDeadline())
-                .experienceYears(job.getExperienceYears())
-                .createdAt(job.getCreatedAt())
-                .updatedAt(job.getUpdatedAt())
-                .build();
+    public void closeJob(UUID id) {
+        // Zero rows means missing or already closed; only the former is an error
+        if (jobRepository.closeJob(id, LocalDateTime.now(ZoneId.of("Asia/Kolkata"))) == 0
+                && !jobRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Job not found with id: " + id);
+        }
+        jobJsonCache.evict(id);
+        jobCountService.invalidate();
+    }
+
+    public BulkOperationResponse deleteJobs(BulkJobRequest request) {
+        validateBulkRequest(request);
+
+        long affected;
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            affected = inChunks(request.getIds(), jobRepository::deleteJobs);
+            jobJsonCache.evictAll(request.getIds());
+        } else if (request.getCompanyName() != null && !request.getCompanyName().isBlank()) {
+            // Cached fragments of deleted rows are never read again, so nothing to evict
+            affected = untilExhausted(() ->
+                    jobRepository.deleteChunkByCompanyName(request.getCompanyName(), bulkChunkSize));
+        } else {
+            LocalDateTime before = request.getCreatedBefore().atStartOfDay();
+            affected = untilExhausted(() -> jobRepository.deleteChunkCreatedBefore(before, bulkChunkSize));
+        }
+
+        jobCountService.invalidate();
+        return BulkOperationResponse.builder().affected(affected).build();
+    }
+
+    public BulkOperationResponse closeJobs(BulkJobRequest request) {
+        validateBulkRequest(request);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Kolkata"));
+
+        long affected;
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            affected = inChunks(request.getIds(), ids -> jobRepository.closeJobs(ids, now));
+            jobJsonCache.evictAll(request.getIds());
+        } else if (request.getCompanyName() != null && !request.getCompanyName().isBlank()) {
+            // The UPDATE bumps updatedAt, so cached fragments of closed rows already miss
+            affected = untilExhausted(() ->
+                    jobRepository.closeChunkByCompanyName(request.getCompanyName(), now, bulkChunkSize));
+        } else {
+            LocalDateTime before = request.getCreatedBefore().atStartOfDay();
+            affected = untilExhausted(() -> jobRepository.closeChunkCreatedBefore(before, now, bulkChunkSize));
+        }
+
+        jobCountService.invalidate();
+        return BulkOperationResponse.builder().affected(affected).build();
+    }
+
+    private void validateBulkRequest(BulkJobRequest request) {
+        int criteria = 0;
+        if (request.getIds() != null && !request.getIds().isEmpty()) criteria++;
+        if (request.getCompanyName() != null && !request.getCompanyName().isBlank()) criteria++;
+        if (request.getCreatedBefore() != null) criteria++;
+
+        if (criteria != 1) {
+            throw new BadRequestException("Exactly one of ids, companyName or createdBefore is required");
+        }
+    }
+
+    // Each chunk is its own statement and transaction, keeping row locks and WAL bursts short
+    private long inChunks(List<UUID> ids, ToIntFunction<List<UUID>> statement) {
+        List<UUID> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        long affected = 0;
+        for (int from = 0; from < distinctIds.size(); from += bulkChunkSize) {
+            int to = Math.min(from + bulkChunkSize, distinctIds.size());
+            affected += statement.applyAsInt(distinctIds.subList(from, to));
+        }
+        return affected;
+    }
+
+    private long untilExhausted(IntSupplier chunk) {
+        long affected = 0;
+        int count;
+        do {
+            count = chunk.getAsInt();
+            affected += count;
+        } while (count == bulkChunkSize);
+        return affected;
     }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.models.Location;
+import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import com.nikhildev.projects.job_portal.repositories.LocationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of canonical locations. Free-text locations are resolved to an integer id
+ * when a job is written, and search strings are resolved against an in-memory alias map,
+ * so location filtering becomes an indexed equality/IN lookup on jobs.location_id.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationService {
+
+    private static final Map<String, List<String>> KNOWN_ALIASES = Map.of(
+            "Bengaluru", List.of("bengaluru", "bangalore", "blr"),
+            "Mumbai", List.of("mumbai", "bombay"),
+            "Chennai", List.of("chennai", "madras"),
+            "Kolkata", List.of("kolkata", "calcutta"),
+            "Gurugram", List.of("gurugram", "gurgaon"),
+            "Delhi", List.of("delhi", "new delhi"),
+            "Thiruvananthapuram", List.of("thiruvananthapuram", "trivandrum"),
+            "Puducherry", List.of("puducherry", "pondicherry")
+    );
+
+    private final LocationRepository locationRepository;
+    private final JobRepository jobRepository;
+
+    @Value("${jobs.locations.miss-reload-interval-ms:5000}")
+    private long missReloadIntervalMillis;
+
+    // Swapped wholesale on reload so searches never see a half-filled map
+    private volatile Map<String, Integer> aliasIndex = new ConcurrentHashMap<>();
+    private volatile long aliasesLoadedAt;
+
+    /**
+     * Loads the alias map. Also runs periodically to pick up locations created by other instances.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jobs.locations.reload-interval-ms:60000}",
+            initialDelayString = "${jobs.locations.reload-interval-ms:60000}")
+    synchronized void loadAliases() {
+        Map<String, Integer> loaded = new ConcurrentHashMap<>();
+        for (Location location : locationRepository.findAllWithAliases()) {
+            location.getAliases().forEach(alias -> loaded.put(alias, location.getId()));
+        }
+        aliasIndex = loaded;
+        aliasesLoadedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Seeds well-known aliases and backfills location_id on jobs written before the dictionary existed.
+     * Both steps are idempotent, so this runs on every startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        KNOWN_ALIASES.forEach(this::seed);
+
+        int backfilled = 0;
+        for (String location : jobRepository.findUnresolvedLocations()) {
+            backfilled += jobRepository.assignLocationId(location, resolve(location));
+        }
+        if (backfilled > 0) {
+            log.info("Backfilled location ids for {} jobs", backfilled);
+        }
+    }
+
+    /**
+     * Returns the dictionary id for a free-text location, creating a new entry if none matches.
+     */
+    public synchronized Integer resolve(String location) {
+        String alias = normalize(location);
+        Integer id = aliasIndex.get(alias);
+        if (id != null) {
+            return id;
+        }
+
+        // "Bangalore, KA" resolves through "bangalore" and is remembered as an alias of it
+        String base = normalize(firstSegment(location));
+        id = aliasIndex.get(base);
+
+        try {
+            if (id != null) {
+                locationRepository.addAlias(id, alias);
+            } else {
+                Set<String> aliases = new HashSet<>(List.of(alias, base));
+                id = locationRepository.save(Location.builder()
+                        .canonicalName(firstSegment(location))
+                        .aliases(aliases)
+                        .build()).getId();
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another instance got there first; pick up its entry
+            loadAliases();
+            id = aliasIndex.getOrDefault(alias, aliasIndex.get(base));
+            if (id == null) {
+                throw e;
+            }
+            return id;
+        }
+
+        aliasIndex.put(alias, id);
+        aliasIndex.put(base, id);
+        return id;
+    }
+
+    /**
+     * Resolves a search string to the ids of every location with an alias containing it,
+     * as the old LIKE filter did, so "mumbai" also matches "Navi Mumbai".
+     * Composite aliases remembered from postings ("remote, bangalore" on Remote) only match
+     * exactly, otherwise a search for "bangalore" would return every Remote job.
+     */
+    public Set<Integer> resolveIds(String query) {
+        String normalized = normalize(query);
+        Set<Integer> ids = matching(normalized);
+
+        // The location may have been created on another instance since the last reload
+        if (ids.isEmpty() && System.currentTimeMillis() - aliasesLoadedAt >= missReloadIntervalMillis) {
+            loadAliases();
+            ids = matching(normalized);
+        }
+        return ids;
+    }
+
+    private Set<Integer> matching(String normalized) {
+        Set<Integer> ids = new HashSet<>();
+        aliasIndex.forEach((alias, locationId) -> {
+            boolean composite = alias.indexOf(',') >= 0;
+            if (alias.equals(normalized) || (!composite && alias.contains(normalized))) {
+                ids.add(locationId);
+            }
+        });
+        return ids;
+    }
+
+    private synchronized void seed(String canonicalName, List<String> aliases) {
+        Set<String> free = new HashSet<>();
+        for (String alias : aliases) {
+            if (!aliasIndex.containsKey(alias)) {
+                free.add(alias);
+            }
+        }
+        if (free.isEmpty()) {
+            return;
+        }
+
+        // Attach to whichever location already owns one of the aliases, if any
+        Integer id = aliases.stream().map(aliasIndex::get).filter(Objects::nonNull).findFirst().orElse(null);
+        try {
+            if (id != null) {
+                for (String alias : free) {
+                    locationRepository.addAlias(id, alias);
+                }
+            } else {
+                id = locationRepository.save(Location.builder()
+                        .canonicalName(canonicalName)
+                        .aliases(free)
+                        .build()).getId();
+            }
+        } catch (DataIntegrityViolationException e) {
+            loadAliases();
+            return;
+        }
+        for (String alias : free) {
+            aliasIndex.put(alias, id);
+        }
+    }
+
+    // Text before the first comma, or the whole string when that part is blank (", KA", ",")
+    private static String firstSegment(String location) {
+        int comma = location.indexOf(',');
+        String segment = comma >= 0 ? location.substring(0, comma) : location;
+        return segment.isBlank() ? location.trim() : segment.trim();
+    }
+
+    static String normalize(String location) {
+        return location.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
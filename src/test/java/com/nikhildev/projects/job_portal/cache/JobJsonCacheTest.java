@@ -0,0 +1,74 @@
+package com.nikhildev.projects.job_portal.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhildev.projects.job_portal.models.Job;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobJsonCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void evictsEldestEntriesToStayWithinByteBudget() {
+        Job first = job("a".repeat(1000));
+        long entrySize = sizeOf(first);
+        JobJsonCache cache = new JobJsonCache(objectMapper, entrySize * 2 + entrySize / 2);
+
+        cache.full(first);
+        cache.full(job("b".repeat(1000)));
+        cache.full(job("c".repeat(1000)));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.totalBytes()).isLessThanOrEqualTo(entrySize * 2 + entrySize / 2);
+    }
+
+    @Test
+    void reserializedEntryReplacesItsOldSize() {
+        JobJsonCache cache = new JobJsonCache(objectMapper, 1024 * 1024);
+        Job job = job("short");
+        cache.full(job);
+
+        job.setDescription("d".repeat(500));
+        job.setUpdatedAt(job.getUpdatedAt().plusMinutes(1));
+        cache.full(job);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.totalBytes()).isEqualTo(sizeOf(job));
+    }
+
+    @Test
+    void evictReleasesBytes() {
+        JobJsonCache cache = new JobJsonCache(objectMapper, 1024 * 1024);
+        Job job = job("text");
+        cache.full(job);
+
+        cache.evict(job.getId());
+
+        assertThat(cache.totalBytes()).isZero();
+    }
+
+    private long sizeOf(Job job) {
+        JobJsonCache probe = new JobJsonCache(objectMapper, Long.MAX_VALUE);
+        probe.full(job);
+        return probe.totalBytes();
+    }
+
+    private static Job job(String description) {
+        return Job.builder()
+                .id(UUID.randomUUID())
+                .title("Engineer")
+                .companyName("Acme")
+                .location("Bengaluru")
+                .jobType(Job.JobType.FullTime)
+                .description(description)
+                .createdAt(LocalDateTime.of(2026, 10, 1, 9, 30))
+                .updatedAt(LocalDateTime.of(2026, 10, 1, 9, 30))
+                .build();
+    }
+}
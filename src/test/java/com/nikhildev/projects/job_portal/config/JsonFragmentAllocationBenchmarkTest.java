@@ -0,0 +1,121 @@
+package com.nikhildev.projects.job_portal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhildev.projects.job_portal.cache.JobJsonCache;
+import com.nikhildev.projects.job_portal.dto.JobPageResponse;
+import com.nikhildev.projects.job_portal.dto.JobResponse;
+import com.nikhildev.projects.job_portal.models.Job;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation per 12-job list request: the old path maps every job to a JobResponse and lets
+ * Jackson serialize a HashMap; the new one concatenates cached fragments.
+ * Excluded from the default test run; run with {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@Tag("benchmark")
+class JsonFragmentAllocationBenchmarkTest {
+
+    private static final int ITERATIONS = 2000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final JsonFragmentHttpMessageConverter converter = new JsonFragmentHttpMessageConverter();
+    private final JobJsonCache cache = new JobJsonCache(objectMapper, 1024 * 1024);
+
+    @Test
+    void cachedPageAllocatesLessThanMapSerialization() throws Exception {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        List<Job> jobs = jobs();
+        for (int i = 0; i < ITERATIONS; i++) {
+            writeMapPage(jobs);
+            writeCachedPage(jobs);
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            writeMapPage(jobs);
+        }
+        long mapBytes = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+        allocated = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            writeCachedPage(jobs);
+        }
+        long cachedBytes = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+        assertThat(cachedBytes).isLessThan(mapBytes);
+    }
+
+    private void writeMapPage(List<Job> jobs) throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", jobs.stream().map(JobResponse::from).collect(Collectors.toList()));
+        response.put("nextCursor", null);
+        response.put("hasMore", false);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    private void writeCachedPage(List<Job> jobs) throws Exception {
+        JobPageResponse page = JobPageResponse.builder()
+                .data(jobs.stream().map(cache::full).collect(Collectors.toList()))
+                .hasMore(false)
+                .build();
+        converter.write(page, MediaType.APPLICATION_JSON, new DiscardingOutputMessage());
+    }
+
+    private static List<Job> jobs() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            jobs.add(Job.builder()
+                    .id(UUID.randomUUID())
+                    .title("Backend Engineer " + i)
+                    .companyName("Acme Labs")
+                    .location("Bengaluru")
+                    .jobType(Job.JobType.FullTime)
+                    .minSalary(BigInteger.valueOf(800000 + i))
+                    .maxSalary(BigInteger.valueOf(1500000))
+                    .description("Build and operate the APIs behind the job portal. ".repeat(10))
+                    .requirements("Java 17, Spring Boot, PostgreSQL")
+                    .responsibilities("Design, review and ship backend features")
+                    .applicationDeadline(LocalDate.of(2026, 12, 31))
+                    .experienceYears("2-4")
+                    .createdAt(LocalDateTime.of(2026, 10, 1, 9, 30).plusMinutes(i))
+                    .updatedAt(LocalDateTime.of(2026, 10, 2, 9, 30).plusMinutes(i))
+                    .build());
+        }
+        return jobs;
+    }
+
+    private static class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.nikhildev.projects.job_portal.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikhildev.projects.job_portal.cache.JobJsonCache;
+import com.nikhildev.projects.job_portal.dto.JobPageResponse;
+import com.nikhildev.projects.job_portal.dto.JobResponse;
+import com.nikhildev.projects.job_portal.dto.JobViews;
+import com.nikhildev.projects.job_portal.models.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonFragmentHttpMessageConverterTest {
+
+    // Same builder Spring Boot uses, so views and date formats match the Jackson converter
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final JsonFragmentHttpMessageConverter converter = new JsonFragmentHttpMessageConverter();
+
+    private JobJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobJsonCache(objectMapper, 1024 * 1024);
+    }
+
+    @Test
+    void emptyPageMatchesMapSerialization() throws Exception {
+        JobPageResponse page = JobPageResponse.builder()
+                .data(List.of())
+                .nextCursor(null)
+                .hasMore(false)
+                .build();
+
+        assertThat(write(page)).isEqualTo(mapSerialization(List.of(), null, false, JobViews.Full.class));
+    }
+
+    @Test
+    void fullPageMatchesMapSerialization() throws Exception {
+        List<Job> jobs = jobs(3);
+        JobPageResponse page = JobPageResponse.builder()
+                .data(jobs.stream().map(job -> cache.full(job)).collect(Collectors.toList()))
+                .nextCursor(jobs.get(2).getId().toString())
+                .hasMore(true)
+                .build();
+
+        JsonNode written = write(page);
+
+        assertThat(written).isEqualTo(mapSerialization(jobs, jobs.get(2).getId().toString(), true, JobViews.Full.class));
+        assertThat(written.get("data").get(0).has("description")).isTrue();
+    }
+
+    @Test
+    void summaryPageOmitsLongTextFields() throws Exception {
+        List<Job> jobs = jobs(2);
+        JobPageResponse page = JobPageResponse.builder()
+                .data(jobs.stream().map(job -> cache.summary(job)).collect(Collectors.toList()))
+                .hasMore(false)
+                .build();
+
+        JsonNode written = write(page);
+
+        assertThat(written).isEqualTo(mapSerialization(jobs, null, false, JobViews.Summary.class));
+        assertThat(written.get("data").get(0).has("description")).isFalse();
+        assertThat(written.get("data").get(0).has("title")).isTrue();
+    }
+
+    @Test
+    void pageWithCountAppendsCountFields() throws Exception {
+        JobPageResponse page = JobPageResponse.builder()
+                .data(List.of())
+                .hasMore(false)
+                .count(42L)
+                .countType("estimate")
+                .build();
+
+        JsonNode written = write(page);
+
+        assertThat(written.get("count").asLong()).isEqualTo(42L);
+        assertThat(written.get("countType").asText()).isEqualTo("estimate");
+    }
+
+    @Test
+    void singleFragmentMatchesJobResponse() throws Exception {
+        Job job = jobs(1).get(0);
+
+        JsonNode written = write(cache.full(job));
+
+        assertThat(written).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(JobResponse.from(job))));
+    }
+
+    @Test
+    void changedUpdatedAtIsReserialized() throws Exception {
+        Job job = jobs(1).get(0);
+        cache.full(job);
+
+        job.setTitle("Renamed");
+        job.setUpdatedAt(job.getUpdatedAt().plusMinutes(1));
+
+        assertThat(write(cache.full(job)).get("title").asText()).isEqualTo("Renamed");
+    }
+
+    private JsonNode write(Object body) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+        return objectMapper.readTree(message.getBodyAsBytes());
+    }
+
+    private JsonNode mapSerialization(List<Job> jobs, String nextCursor, boolean hasMore, Class<?> view)
+            throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", jobs.stream().map(JobResponse::from).collect(Collectors.toList()));
+        response.put("nextCursor", nextCursor);
+        response.put("hasMore", hasMore);
+        return objectMapper.readTree(objectMapper.writerWithView(view).writeValueAsBytes(response));
+    }
+
+    private List<Job> jobs(int count) {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobs.add(Job.builder()
+                    .id(UUID.randomUUID())
+                    .title("Backend Engineer " + i)
+                    .companyName("Acme \"Labs\"")
+                    .location("Bengaluru")
+                    .jobType(Job.JobType.FullTime)
+                    .minSalary(BigInteger.valueOf(800000 + i))
+                    .maxSalary(i % 2 == 0 ? BigInteger.valueOf(1500000) : null)
+                    .description("Build APIs\nwith Spring — ünïcode and \\ backslashes")
+                    .requirements("Java 17")
+                    .responsibilities(null)
+                    .applicationDeadline(LocalDate.of(2026, 12, 31))
+                    .experienceYears("2-4")
+                    .createdAt(LocalDateTime.of(2026, 10, 1, 9, 30).plusMinutes(i))
+                    .updatedAt(LocalDateTime.of(2026, 10, 2, 9, 30).plusMinutes(i))
+                    .build());
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,195 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.dto.JobCount;
+import com.nikhildev.projects.job_portal.models.Job;
+import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobCountServiceTest {
+
+    private static final JobSearchKey ALL = new JobSearchKey(null, null, null, null, null);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<JobCountService> services = new ArrayList<>();
+
+    private JobRepository jobRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        when(jobRepository.countOpenJobsByTypeAndLocation()).thenReturn(rows(
+                row(Job.JobType.FullTime, 1, 3),
+                row(Job.JobType.PartTime, 1, 2),
+                row(Job.JobType.FullTime, 2, 4)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        services.forEach(JobCountService::shutdown);
+    }
+
+    @Test
+    void exactReturnsCachedValueOnHit() {
+        JobCountService service = service(1000, 60, 2, 16);
+        when(jobRepository.count(any(Specification.class))).thenReturn(5L);
+
+        assertThat(service.exact(ALL, spec())).isEqualTo(new JobCount(5, "exact"));
+        assertThat(service.exact(ALL, spec())).isEqualTo(new JobCount(5, "exact"));
+
+        verify(jobRepository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void concurrentMissesShareOneCount() {
+        JobCountService service = service(50, 60, 2, 16);
+        when(jobRepository.count(any(Specification.class))).thenAnswer(invocation -> blockedCount(5L));
+
+        // Both give up waiting while the first count is still running
+        service.exact(ALL, spec());
+        service.exact(ALL, spec());
+        release.countDown();
+
+        verify(jobRepository, timeout(1000).times(1)).count(any(Specification.class));
+        assertThat(service.exact(ALL, spec())).isEqualTo(new JobCount(5, "exact"));
+        verify(jobRepository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void countFinishingAfterInvalidateIsNotServed() throws Exception {
+        JobCountService service = service(50, 60, 2, 16);
+        CountDownLatch firstDone = new CountDownLatch(1);
+        when(jobRepository.count(any(Specification.class)))
+                .thenAnswer(invocation -> {
+                    long stale = blockedCount(5L);
+                    firstDone.countDown();
+                    return stale;
+                })
+                .thenReturn(9L);
+
+        service.exact(ALL, spec());
+        service.invalidate();
+        release.countDown();
+        assertThat(firstDone.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(service.exact(ALL, spec())).isEqualTo(new JobCount(9, "exact"));
+        verify(jobRepository, times(2)).count(any(Specification.class));
+    }
+
+    @Test
+    void exactCountExpiresAfterTtl() throws Exception {
+        JobCountService service = service(1000, 0, 2, 16);
+        when(jobRepository.count(any(Specification.class))).thenReturn(5L, 6L);
+
+        assertThat(service.exact(ALL, spec()).getValue()).isEqualTo(5);
+        Thread.sleep(5);
+        assertThat(service.exact(ALL, spec()).getValue()).isEqualTo(6);
+    }
+
+    @Test
+    void rejectedCountFallsBackToEstimate() {
+        JobCountService service = service(50, 60, 1, 1);
+        service.refreshCounters();
+        when(jobRepository.count(any(Specification.class))).thenAnswer(invocation -> blockedCount(5L));
+        Specification<Job> rejected = spec();
+
+        // One count running, one queued, the third does not fit
+        service.exact(key(Job.JobType.FullTime, null), spec());
+        service.exact(key(Job.JobType.PartTime, null), spec());
+        JobCount count = service.exact(ALL, rejected);
+
+        assertThat(count).isEqualTo(new JobCount(9, "estimate"));
+        release.countDown();
+        verify(jobRepository, timeout(1000).times(2)).count(any(Specification.class));
+        verify(jobRepository, never()).count(rejected);
+    }
+
+    @Test
+    void timeoutFallsBackToEstimate() {
+        JobCountService service = service(50, 60, 2, 16);
+        service.refreshCounters();
+        when(jobRepository.count(any(Specification.class))).thenAnswer(invocation -> blockedCount(5L));
+
+        assertThat(service.exact(key(Job.JobType.FullTime, Set.of(1)), spec()))
+                .isEqualTo(new JobCount(3, "estimate"));
+    }
+
+    @Test
+    void estimateIsNullBeforeFirstSnapshot() {
+        JobCountService service = service(50, 60, 2, 16);
+
+        assertThat(service.estimate(ALL)).isNull();
+        verify(jobRepository, never()).countOpenJobsByTypeAndLocation();
+    }
+
+    @Test
+    void estimateLabelsDroppedFiltersAsUpperBound() {
+        JobCountService service = service(50, 60, 2, 16);
+        service.refreshCounters();
+
+        assertThat(service.estimate(ALL)).isEqualTo(new JobCount(9, "estimate"));
+        assertThat(service.estimate(key(Job.JobType.FullTime, null))).isEqualTo(new JobCount(7, "estimate"));
+        assertThat(service.estimate(key(null, Set.of(1)))).isEqualTo(new JobCount(5, "estimate"));
+        assertThat(service.estimate(new JobSearchKey("engineer", null, null, null, null)))
+                .isEqualTo(new JobCount(9, "upper_bound"));
+        assertThat(service.estimate(new JobSearchKey(null, Job.JobType.FullTime, Set.of(2), BigInteger.TEN, null)))
+                .isEqualTo(new JobCount(4, "upper_bound"));
+    }
+
+    @Test
+    void invalidateRefreshesCountersInBackground() {
+        JobCountService service = service(50, 60, 2, 16);
+        service.refreshCounters();
+        when(jobRepository.countOpenJobsByTypeAndLocation()).thenReturn(rows(row(Job.JobType.FullTime, 1, 1)));
+
+        service.invalidate();
+
+        verify(jobRepository, timeout(1000).times(2)).countOpenJobsByTypeAndLocation();
+        long deadline = System.currentTimeMillis() + 1000;
+        while (service.estimate(ALL).getValue() != 1 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(service.estimate(ALL)).isEqualTo(new JobCount(1, "estimate"));
+    }
+
+    private JobCountService service(long waitMillis, long ttlSeconds, int threads, int queueCapacity) {
+        JobCountService service = new JobCountService(jobRepository, waitMillis, ttlSeconds, threads, queueCapacity);
+        services.add(service);
+        return service;
+    }
+
+    private long blockedCount(long value) throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+        return value;
+    }
+
+    private static Specification<Job> spec() {
+        return (root, query, criteriaBuilder) -> null;
+    }
+
+    private static JobSearchKey key(Job.JobType jobType, Set<Integer> locationIds) {
+        return new JobSearchKey(null, jobType, locationIds, null, null);
+    }
+
+    private static Object[] row(Job.JobType jobType, Integer locationId, long count) {
+        return new Object[]{jobType, locationId, count};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
@@ -0,0 +1,182 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.cache.JobJsonCache;
+import com.nikhildev.projects.job_portal.dto.BulkJobRequest;
+import com.nikhildev.projects.job_portal.exceptions.BadRequestException;
+import com.nikhildev.projects.job_portal.exceptions.ResourceNotFoundException;
+import com.nikhildev.projects.job_portal.models.Job;
+import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// The main properties pin the Postgres dialect; the slice runs against embedded H2
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class JobServiceBulkTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private JobJsonCache jobJsonCache;
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobJsonCache = mock(JobJsonCache.class);
+        jobService = new JobService(jobRepository, jobJsonCache,
+                mock(LocationService.class), mock(JobCountService.class));
+        // Smaller than the data sets below, so every selector needs several chunks
+        ReflectionTestUtils.setField(jobService, "bulkChunkSize", 2);
+    }
+
+    @Test
+    void deleteJobUsesAffectedRowCount() {
+        Job job = save("Acme", NOW);
+
+        jobService.deleteJob(job.getId());
+
+        assertThat(jobRepository.existsById(job.getId())).isFalse();
+        assertThatThrownBy(() -> jobService.deleteJob(job.getId())).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deleteByCompanyRemovesAllChunks() {
+        saveMany("Acme", NOW, 5);
+        saveMany("Other", NOW, 2);
+
+        long affected = jobService.deleteJobs(BulkJobRequest.builder().companyName("Acme").build()).getAffected();
+
+        assertThat(affected).isEqualTo(5);
+        assertThat(jobRepository.count()).isEqualTo(2);
+        verifyNoInteractions(jobJsonCache);
+    }
+
+    @Test
+    void deleteCreatedBeforeRemovesOnlyOlderJobs() {
+        saveMany("Acme", NOW.minusDays(10), 3);
+        saveMany("Acme", NOW, 2);
+
+        long affected = jobService.deleteJobs(BulkJobRequest.builder()
+                .createdBefore(NOW.toLocalDate().minusDays(1))
+                .build()).getAffected();
+
+        assertThat(affected).isEqualTo(3);
+        assertThat(jobRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteByIdsCountsDistinctExistingRows() {
+        List<Job> jobs = saveMany("Acme", NOW, 5);
+        List<UUID> ids = new ArrayList<>(jobs.stream().map(Job::getId).toList());
+        ids.add(jobs.get(0).getId());
+        ids.add(UUID.randomUUID());
+
+        long affected = jobService.deleteJobs(BulkJobRequest.builder().ids(ids).build()).getAffected();
+
+        assertThat(affected).isEqualTo(5);
+        assertThat(jobRepository.count()).isZero();
+    }
+
+    @Test
+    void closeByCompanyDoesNotRecountClosedJobs() {
+        saveMany("Acme", NOW, 5);
+
+        BulkJobRequest request = BulkJobRequest.builder().companyName("Acme").build();
+
+        assertThat(jobService.closeJobs(request).getAffected()).isEqualTo(5);
+        assertThat(jobService.closeJobs(request).getAffected()).isZero();
+        // The native updates bypass the persistence context
+        entityManager.clear();
+        assertThat(jobRepository.findAll()).allMatch(job -> job.getClosedAt() != null);
+    }
+
+    @Test
+    void closeCreatedBeforeDoesNotRecountClosedJobs() {
+        saveMany("Acme", NOW.minusDays(10), 3);
+        saveMany("Acme", NOW, 1);
+
+        BulkJobRequest request = BulkJobRequest.builder().createdBefore(NOW.toLocalDate()).build();
+
+        assertThat(jobService.closeJobs(request).getAffected()).isEqualTo(3);
+        assertThat(jobService.closeJobs(request).getAffected()).isZero();
+    }
+
+    @Test
+    void closeByIdsSkipsAlreadyClosedJobs() {
+        List<Job> jobs = saveMany("Acme", NOW, 5);
+        jobService.closeJob(jobs.get(0).getId());
+
+        long affected = jobService.closeJobs(BulkJobRequest.builder()
+                .ids(jobs.stream().map(Job::getId).toList())
+                .build()).getAffected();
+
+        assertThat(affected).isEqualTo(4);
+    }
+
+    @Test
+    void closeJobRejectsUnknownIdButAcceptsClosedOne() {
+        Job job = save("Acme", NOW);
+        jobService.closeJob(job.getId());
+
+        jobService.closeJob(job.getId());
+        assertThatThrownBy(() -> jobService.closeJob(UUID.randomUUID()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void bulkRequestNeedsExactlyOneSelector() {
+        assertThatThrownBy(() -> jobService.deleteJobs(new BulkJobRequest()))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> jobService.closeJobs(BulkJobRequest.builder()
+                .companyName("Acme")
+                .createdBefore(LocalDate.now())
+                .build()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void chunkSizeBelowOneIsRejected() {
+        ReflectionTestUtils.setField(jobService, "bulkChunkSize", 0);
+
+        assertThatThrownBy(() -> jobService.validateBulkChunkSize()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<Job> saveMany(String companyName, LocalDateTime createdAt, int count) {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobs.add(save(companyName, createdAt.plusSeconds(i)));
+        }
+        return jobs;
+    }
+
+    private Job save(String companyName, LocalDateTime createdAt) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title("Engineer")
+                .companyName(companyName)
+                .location("Bengaluru")
+                .jobType(Job.JobType.FullTime)
+                .description("Build things")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build());
+    }
+}
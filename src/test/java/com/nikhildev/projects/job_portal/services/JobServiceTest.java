@@ -0,0 +1,91 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.cache.JobJsonCache;
+import com.nikhildev.projects.job_portal.dto.JobCount;
+import com.nikhildev.projects.job_portal.dto.JobPageResponse;
+import com.nikhildev.projects.job_portal.exceptions.BadRequestException;
+import com.nikhildev.projects.job_portal.models.Job;
+import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobServiceTest {
+
+    private JobRepository jobRepository;
+    private JobCountService jobCountService;
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        jobCountService = mock(JobCountService.class);
+        jobService = new JobService(jobRepository, mock(JobJsonCache.class),
+                mock(LocationService.class), jobCountService);
+    }
+
+    @Test
+    void getAllJobsRejectsUnknownView() {
+        assertThatThrownBy(() -> jobService.getAllJobs(null, null, null, null, null,
+                null, 12, "createdAt", "desc", "compact", null))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void getAllJobsRejectsUnknownIncludeCount() {
+        assertThatThrownBy(() -> jobService.getAllJobs(null, null, null, null, null,
+                null, 12, "createdAt", "desc", "full", "approximate"))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(jobRepository, jobCountService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void includeCountCountsFiltersWithoutCursor() {
+        UUID cursor = UUID.randomUUID();
+        when(jobRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+        when(jobRepository.findById(cursor)).thenReturn(Optional.empty());
+        when(jobCountService.exact(any(), any())).thenReturn(new JobCount(3, "exact"));
+
+        JobPageResponse response = jobService.getAllJobs("Engineer", null, "FullTime", null,
+                new BigInteger("2000000"), cursor.toString(), 12, "createdAt", "desc", "full", "exact");
+
+        assertThat(response.getCount()).isEqualTo(3L);
+        assertThat(response.getCountType()).isEqualTo("exact");
+
+        ArgumentCaptor<JobSearchKey> key = ArgumentCaptor.forClass(JobSearchKey.class);
+        ArgumentCaptor<Specification<Job>> countSpec = ArgumentCaptor.forClass(Specification.class);
+        ArgumentCaptor<Specification<Job>> pageSpec = ArgumentCaptor.forClass(Specification.class);
+        verify(jobCountService).exact(key.capture(), countSpec.capture());
+        verify(jobRepository).findAll(pageSpec.capture(), any(Pageable.class));
+
+        // The frontend maximum salary means no upper limit, so it is not part of the key
+        assertThat(key.getValue()).isEqualTo(new JobSearchKey("engineer", Job.JobType.FullTime, null, null, null));
+
+        Root<Job> root = mock(Root.class, RETURNS_DEEP_STUBS);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class, RETURNS_DEEP_STUBS);
+
+        // Only the cursor predicate looks up the cursor job
+        countSpec.getValue().toPredicate(root, query, criteriaBuilder);
+        verify(jobRepository, never()).findById(any());
+        pageSpec.getValue().toPredicate(root, query, criteriaBuilder);
+        verify(jobRepository).findById(cursor);
+    }
+}
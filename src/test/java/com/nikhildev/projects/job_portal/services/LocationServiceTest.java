@@ -0,0 +1,174 @@
+package com.nikhildev.projects.job_portal.services;
+
+import com.nikhildev.projects.job_portal.models.Location;
+import com.nikhildev.projects.job_portal.repositories.JobRepository;
+import com.nikhildev.projects.job_portal.repositories.LocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LocationServiceTest {
+
+    private LocationRepository locationRepository;
+    private JobRepository jobRepository;
+    private LocationService locationService;
+
+    private final AtomicInteger nextId = new AtomicInteger(100);
+
+    @BeforeEach
+    void setUp() {
+        locationRepository = mock(LocationRepository.class);
+        jobRepository = mock(JobRepository.class);
+        when(locationRepository.save(any(Location.class))).thenAnswer(invocation -> {
+            Location location = invocation.getArgument(0);
+            location.setId(nextId.getAndIncrement());
+            return location;
+        });
+        locationService = new LocationService(locationRepository, jobRepository);
+    }
+
+    @Test
+    void normalizeTrimsLowercasesAndCollapsesWhitespace() {
+        assertThat(LocationService.normalize("  New   Delhi ")).isEqualTo("new delhi");
+        assertThat(LocationService.normalize("Bangalore,\tKA")).isEqualTo("bangalore, ka");
+    }
+
+    @Test
+    void resolveReusesLocationOfFirstSegmentAndRemembersAlias() {
+        dictionary(location(1, "Bengaluru", "bengaluru", "bangalore"));
+
+        assertThat(locationService.resolve("Bangalore, KA")).isEqualTo(1);
+        verify(locationRepository).addAlias(1, "bangalore, ka");
+        verify(locationRepository, never()).save(any());
+
+        // Second time it is a plain alias hit
+        assertThat(locationService.resolve("bangalore,  KA")).isEqualTo(1);
+        verify(locationRepository, times(1)).addAlias(anyInt(), anyString());
+    }
+
+    @Test
+    void resolveCreatesNewLocationWhenNothingMatches() {
+        dictionary();
+
+        Integer id = locationService.resolve("Pune, MH");
+
+        ArgumentCaptor<Location> saved = ArgumentCaptor.forClass(Location.class);
+        verify(locationRepository).save(saved.capture());
+        assertThat(saved.getValue().getCanonicalName()).isEqualTo("Pune");
+        assertThat(saved.getValue().getAliases()).containsExactlyInAnyOrder("pune", "pune, mh");
+        assertThat(locationService.resolve("pune")).isEqualTo(id);
+    }
+
+    @Test
+    void resolveFallsBackToWholeStringWhenFirstSegmentIsBlank() {
+        dictionary();
+
+        locationService.resolve(",");
+        locationService.resolve(", KA");
+
+        ArgumentCaptor<Location> saved = ArgumentCaptor.forClass(Location.class);
+        verify(locationRepository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(Location::getCanonicalName).containsExactly(",", ", KA");
+    }
+
+    @Test
+    void resolvePicksUpEntryCreatedConcurrently() {
+        dictionary();
+        doThrow(new DataIntegrityViolationException("duplicate")).when(locationRepository).save(any(Location.class));
+        when(locationRepository.findAllWithAliases()).thenReturn(List.of(location(7, "Pune", "pune")));
+
+        assertThat(locationService.resolve("Pune")).isEqualTo(7);
+    }
+
+    @Test
+    void resolveIdsIncludesLocationsContainingAnExactAlias() {
+        dictionary(
+                location(1, "Mumbai", "mumbai", "bombay"),
+                location(2, "Navi Mumbai", "navi mumbai"),
+                location(3, "Delhi", "delhi", "new delhi"),
+                location(4, "South Delhi", "south delhi"));
+
+        assertThat(locationService.resolveIds("Mumbai")).containsExactlyInAnyOrder(1, 2);
+        assertThat(locationService.resolveIds("delhi")).containsExactlyInAnyOrder(3, 4);
+        assertThat(locationService.resolveIds("bomb")).containsExactly(1);
+    }
+
+    @Test
+    void resolveIdsMatchesCompositeAliasesOnlyExactly() {
+        dictionary(location(1, "Bengaluru", "bengaluru", "bangalore"));
+        Integer remote = locationService.resolve("Remote, Bangalore");
+
+        assertThat(locationService.resolveIds("bangalore")).containsExactly(1);
+        assertThat(locationService.resolveIds("Remote, Bangalore")).containsExactly(remote);
+        assertThat(locationService.resolveIds("remote")).containsExactly(remote);
+    }
+
+    @Test
+    void resolveIdsReloadsOnMissBeforeReturningEmpty() {
+        dictionary(location(1, "Mumbai", "mumbai"));
+        when(locationRepository.findAllWithAliases())
+                .thenReturn(List.of(location(1, "Mumbai", "mumbai"), location(2, "Pune", "pune")));
+
+        assertThat(locationService.resolveIds("pune")).containsExactly(2);
+        assertThat(locationService.resolveIds("chennai")).isEmpty();
+    }
+
+    @Test
+    void seedAttachesKnownAliasesToExistingOwner() {
+        // "Bangalore" was created from a job before the seed list existed
+        dictionary(location(1, "Bangalore", "bangalore"));
+
+        locationService.migrate();
+
+        verify(locationRepository).addAlias(1, "bengaluru");
+        verify(locationRepository).addAlias(1, "blr");
+        assertThat(locationService.resolveIds("bengaluru")).containsExactly(1);
+    }
+
+    @Test
+    void seedConflictReloadsInsteadOfFailing() {
+        dictionary(location(1, "Bangalore", "bangalore"));
+        doThrow(new DataIntegrityViolationException("duplicate")).when(locationRepository).addAlias(eq(1), anyString());
+        when(locationRepository.findAllWithAliases())
+                .thenReturn(List.of(location(1, "Bangalore", "bangalore", "bengaluru", "blr")));
+
+        locationService.migrate();
+
+        assertThat(locationService.resolve("Bengaluru")).isEqualTo(1);
+    }
+
+    @Test
+    void migrateBackfillsUnresolvedJobLocations() {
+        dictionary(location(1, "Bengaluru", "bengaluru", "bangalore"));
+        when(jobRepository.findUnresolvedLocations()).thenReturn(List.of("Bangalore"));
+        when(jobRepository.assignLocationId("Bangalore", 1)).thenReturn(3);
+
+        locationService.migrate();
+
+        verify(jobRepository).assignLocationId("Bangalore", 1);
+    }
+
+    private void dictionary(Location... locations) {
+        when(locationRepository.findAllWithAliases()).thenReturn(List.of(locations));
+        locationService.loadAliases();
+    }
+
+    private static Location location(int id, String canonicalName, String... aliases) {
+        return Location.builder()
+                .id(id)
+                .canonicalName(canonicalName)
+                .aliases(new HashSet<>(Arrays.asList(aliases)))
+                .build();
+    }
+}